@@ -10,6 +10,12 @@ repositories {
     mavenCentral()
 }
 
+// JMH micro-benchmarks live in src/jmh/java and see main classes + deps
+val jmh: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output + sourceSets.main.get().compileClasspath
+    runtimeClasspath += sourceSets.main.get().output + sourceSets.main.get().runtimeClasspath
+}
+
 dependencies {
     implementation("org.quickfixj:quickfixj-core:2.3.2")
     implementation("org.quickfixj:quickfixj-messages-fix44:2.3.2")
@@ -20,6 +26,7 @@ dependencies {
     implementation("org.apache.logging.log4j:log4j-jul:2.25.0")      // optional
     implementation("org.jctools:jctools-core:4.0.3")
     implementation("io.micrometer:micrometer-core:1.13.4")
+    implementation("org.hdrhistogram:HdrHistogram:2.2.2")               // same version micrometer brings in
     implementation("com.google.guava:guava:33.3.1-jre")
     implementation("com.fasterxml.jackson.core:jackson-core:2.17.1")
     implementation("com.fasterxml.jackson.core:jackson-databind:2.17.1")
@@ -32,6 +39,9 @@ dependencies {
     testImplementation("org.mockito:mockito-inline:5.2.0") // <-- needed for mockStatic
 
     runtimeOnly("org.apache.logging.log4j:log4j-slf4j2-impl:2.25.1")
+
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:1.37")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:1.37")
 }
 
 
@@ -63,3 +73,78 @@ tasks.register<JavaExec>("runTradeClient") {
     mainClass.set("io.tradecraft.ext.TradeClient")
 }
 
+// ./gradlew throughput -Pthroughput.args="--rate 50000 --queues mpsc"   -> in-process OMS/SOR/venue loop, no FIX
+tasks.register<JavaExec>("throughput") {
+    dependsOn("classes")
+    group = "benchmark"
+    description = "Run the in-process throughput harness"
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("io.tradecraft.harness.ThroughputMain")
+    args = (project.findProperty("throughput.args") as String?)?.split(" ")?.filter { it.isNotBlank() } ?: listOf()
+}
+
+// ./gradlew fixSessions -Pfix.sessions.args="--sessions 1000 --threading virtual"   -> many FIX sessions, one acceptor
+tasks.register<JavaExec>("fixSessions") {
+    dependsOn("classes")
+    group = "benchmark"
+    description = "Run the FIX session-scaling harness (acceptor threading: single|session|virtual)"
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("io.tradecraft.harness.FixSessionMain")
+    args = (project.findProperty("fix.sessions.args") as String?)?.split(" ")?.filter { it.isNotBlank() } ?: listOf()
+}
+
+// ./gradlew loadTest -Pload.args="-Dload.rate=5000 -Dload.poisson=true"   -> CO-corrected load against a running acceptor
+tasks.register<JavaExec>("loadTest") {
+    dependsOn("classes")
+    group = "application"
+    description = "Drive the FIX acceptor with TradeClient's load generator and report response latency"
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("io.tradecraft.ext.TradeClient")
+    jvmArgs = listOf("-Dload=true") +
+            ((project.findProperty("load.args") as String?)?.split(" ")?.filter { it.isNotBlank() } ?: listOf())
+}
+
+// ./gradlew traceToJsonl -Ptrace.args="trace"   -> render binary traces as JSONL next to them
+tasks.register<JavaExec>("traceToJsonl") {
+    dependsOn("classes")
+    group = "application"
+    description = "Convert binary trace files to JSONL"
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("io.tradecraft.observability.trace.TraceToJsonl")
+    args = (project.findProperty("trace.args") as String?)?.split(" ")?.filter { it.isNotBlank() } ?: listOf("trace")
+}
+
+// ./gradlew replay -Preplay.args="trace/run-1a2b3c4d.properties"   -> re-run a recorded session, diff the ERs
+tasks.register<JavaExec>("replay") {
+    dependsOn("classes")
+    group = "application"
+    description = "Replay a recorded run from its trace files and diff the execution reports"
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("io.tradecraft.replay.ReplayMain")
+    args = (project.findProperty("replay.args") as String?)?.split(" ")?.filter { it.isNotBlank() } ?: listOf()
+}
+
+// ./gradlew jmh                      -> all benchmarks
+// ./gradlew jmh -Pjmh.args="Fsm -prof gc"  -> filtered, with JMH options
+tasks.register<JavaExec>("jmh") {
+    dependsOn("jmhClasses")
+    group = "benchmark"
+    description = "Run JMH benchmarks from src/jmh"
+    classpath = jmh.runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    args = (project.findProperty("jmh.args") as String?)?.split(" ")?.filter { it.isNotBlank() } ?: listOf()
+}
+
+// ./gradlew jmhBaseline              -> every benchmark with the GC profiler (alloc B/op, GC count), kept as JSON
+// ./gradlew jmhBaseline -Pjmh.args="OrderBook"   -> same, filtered
+tasks.register<JavaExec>("jmhBaseline") {
+    dependsOn("jmhClasses")
+    group = "benchmark"
+    description = "Run JMH benchmarks with -prof gc; results in build/reports/jmh/results.json"
+    classpath = jmh.runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    val results = layout.buildDirectory.file("reports/jmh/results.json").get().asFile
+    doFirst { results.parentFile.mkdirs() }
+    args = listOf("-prof", "gc", "-rf", "json", "-rff", results.path) +
+            ((project.findProperty("jmh.args") as String?)?.split(" ")?.filter { it.isNotBlank() } ?: listOf())
+}